@@ -0,0 +1,9 @@
+package Practice.Importer;
+
+import java.util.List;
+
+// Receives parsed records in batches. accept() is allowed to block, which is how a
+// slow consumer pushes back on the parser threads (backpressure).
+public interface BatchSink<T> {
+    void accept(List<T> batch) throws InterruptedException;
+}
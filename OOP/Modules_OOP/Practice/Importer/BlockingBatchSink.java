@@ -0,0 +1,42 @@
+package Practice.Importer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+// A sink backed by a bounded queue. When the consumer falls behind, the queue fills
+// up and the parser threads wait in accept() instead of piling batches up in memory.
+public class BlockingBatchSink<T> implements BatchSink<T> {
+    // A marker batch that tells the consumer no more batches are coming
+    private final List<T> endOfStream = new ArrayList<>();
+    private final BlockingQueue<List<T>> queue;
+
+    public BlockingBatchSink(int capacityInBatches) {
+        this.queue = new ArrayBlockingQueue<>(capacityInBatches);
+    }
+
+    @Override
+    public void accept(List<T> batch) throws InterruptedException {
+        queue.put(batch);
+    }
+
+    // Called by the producer once the import is finished.
+    public void close() throws InterruptedException {
+        queue.put(endOfStream);
+    }
+
+    // Called by the consumer thread. Hands every record to the consumer until close().
+    public void drainTo(Consumer<? super T> consumer) throws InterruptedException {
+        while (true) {
+            List<T> batch = queue.take();
+            if (batch == endOfStream) {
+                return;
+            }
+            for (T record : batch) {
+                consumer.accept(record);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package Practice.Importer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// A view of one line inside a memory-mapped chunk. It only stores where each field
+// starts and ends, so reading a number never creates a String first.
+// Quoted fields are not supported; the exports we read never contain commas in values.
+public final class CsvRow {
+    private static final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+    private static final long COMMAS = 0x2C2C2C2C2C2C2C2CL;
+    private static final int MAX_CACHED_LENGTH = 32;
+
+    private ByteBuffer buffer;
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private int fieldCount;
+    private final String[] stringCache = new String[256];
+
+    // Reads the line that starts at lineStart, recording where each field begins and ends.
+    // Returns the index of the '\n' that ends the line, or limit if the chunk ends first.
+    // The buffer must be in LITTLE_ENDIAN order: bytes are scanned 8 at a time with
+    // getLong, and the lowest flagged byte in each word is the first one in the file.
+    int readLine(ByteBuffer buffer, int lineStart, int limit) {
+        this.buffer = buffer;
+        fieldCount = 0;
+        int fieldStart = lineStart;
+        int i = lineStart;
+        int lineEnd = -1;
+        while (lineEnd < 0 && i + 8 <= limit) {
+            long word = buffer.getLong(i);
+            long candidates = matchBytes(word, NEWLINES) | matchBytes(word, COMMAS);
+            while (candidates != 0) {
+                int index = i + (Long.numberOfTrailingZeros(candidates) >>> 3);
+                byte b = buffer.get(index); // Re-check, the bit trick can flag a few extra bytes
+                if (b == '\n') {
+                    lineEnd = index;
+                    break;
+                }
+                if (b == ',') {
+                    addField(fieldStart, index);
+                    fieldStart = index + 1;
+                }
+                candidates &= candidates - 1;
+            }
+            i += 8;
+        }
+        if (lineEnd < 0) {
+            // Fewer than 8 bytes left in the chunk, finish one byte at a time
+            for (; i < limit; i++) {
+                byte b = buffer.get(i);
+                if (b == '\n') {
+                    break;
+                }
+                if (b == ',') {
+                    addField(fieldStart, i);
+                    fieldStart = i + 1;
+                }
+            }
+            lineEnd = i;
+        }
+        int fieldEnd = lineEnd;
+        if (fieldEnd > fieldStart && buffer.get(fieldEnd - 1) == '\r') {
+            fieldEnd--;
+        }
+        addField(fieldStart, fieldEnd);
+        return lineEnd;
+    }
+
+    // Sets the high bit of every byte in word that equals the repeated byte in pattern.
+    private static long matchBytes(long word, long pattern) {
+        long x = word ^ pattern;
+        return (x - 0x0101010101010101L) & ~x & 0x8080808080808080L;
+    }
+
+    // True for a line with nothing on it, which the importer skips.
+    boolean isBlank() {
+        return fieldCount == 1 && starts[0] == ends[0];
+    }
+
+    private void addField(int start, int end) {
+        if (fieldCount == starts.length) {
+            int[] newStarts = new int[fieldCount * 2];
+            int[] newEnds = new int[fieldCount * 2];
+            System.arraycopy(starts, 0, newStarts, 0, fieldCount);
+            System.arraycopy(ends, 0, newEnds, 0, fieldCount);
+            starts = newStarts;
+            ends = newEnds;
+        }
+        starts[fieldCount] = start;
+        ends[fieldCount] = end;
+        fieldCount++;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    // Parses an int straight from the mapped bytes.
+    public int getInt(int column) {
+        checkColumn(column);
+        int i = starts[column];
+        int end = ends[column];
+        boolean negative = i < end && buffer.get(i) == '-';
+        if (negative) {
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("Column " + column + " is not a number.");
+        }
+        // Accumulates in a long so "99999999999" fails like it does in Integer.parseInt
+        // instead of wrapping around to a wrong value. Stopping as soon as the value is out
+        // of int range also keeps the long itself from overflowing.
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = buffer.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Column " + column + " is not a number.");
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("Column " + column + " is not a number.");
+            }
+        }
+        if (negative) {
+            value = -value;
+        }
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Column " + column + " is not a number.");
+        }
+        return (int) value;
+    }
+
+    // Short values that repeat a lot, like brand names, come back as the same String
+    // object instead of a new copy for every row.
+    public String getString(int column) {
+        checkColumn(column);
+        int start = starts[column];
+        int length = ends[column] - start;
+        if (length > MAX_CACHED_LENGTH) {
+            return decode(start, length);
+        }
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer.get(start + i);
+        }
+        int slot = (hash ^ (hash >>> 8)) & (stringCache.length - 1);
+        String cached = stringCache[slot];
+        if (cached != null && fieldEquals(column, cached)) {
+            return cached;
+        }
+        String value = decode(start, length);
+        stringCache[slot] = value;
+        return value;
+    }
+
+    private String decode(int start, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Compares a field to an ASCII word without creating a String, e.g. the vehicle type.
+    public boolean fieldEquals(int column, String ascii) {
+        checkColumn(column);
+        int length = ends[column] - starts[column];
+        if (length != ascii.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = ascii.charAt(i);
+            if (c > 0x7F || buffer.get(starts[column] + i) != c) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkColumn(int column) {
+        if (column < 0 || column >= fieldCount) {
+            throw new IllegalArgumentException("Row has " + fieldCount + " columns, asked for column " + column + ".");
+        }
+    }
+}
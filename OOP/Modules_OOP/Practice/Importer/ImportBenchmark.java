@@ -0,0 +1,92 @@
+package Practice.Importer;
+
+import Practice.Module1.Class.ComputerImport;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.atomic.LongAdder;
+
+// Measures how fast the importer gets through a synthetic computer inventory.
+// The raw read speed of the same file is printed first, since that is the best the
+// importer can hope for.
+//
+// Usage: ImportBenchmark [sizeInMB (default 5120)] [file (default computers-bench.csv in the temp dir)]
+//   Test data is only generated into the default file or into a file that does not exist
+//   yet. An existing file that you name is benchmarked as it is and never overwritten.
+public class ImportBenchmark {
+    private static final String[] BRANDS = { "Dell", "HP", "Lenovo", "Asus", "Acer", "Apple", "MSI" };
+    private static final int[] RAM_SIZES = { 4, 8, 16, 32, 64, 128 };
+
+    public static void main(String[] args) throws IOException {
+        long sizeInMB = args.length > 0 ? Long.parseLong(args[0]) : 5120;
+        boolean ownFile = args.length > 1;
+        Path file = ownFile
+                ? Paths.get(args[1])
+                : Paths.get(System.getProperty("java.io.tmpdir"), "computers-bench.csv");
+
+        long targetBytes = sizeInMB * 1024 * 1024;
+        if (ownFile && Files.exists(file)) {
+            System.out.println("Using the existing file " + file + " as it is.");
+        } else if (!Files.exists(file) || Files.size(file) < targetBytes) {
+            System.out.println("Generating " + sizeInMB + " MB of test data in " + file + " ...");
+            // CREATE_NEW for a named file, so it is never overwritten even if it appeared meanwhile
+            generate(file, targetBytes, ownFile ? StandardOpenOption.CREATE_NEW : StandardOpenOption.CREATE);
+        }
+        long bytes = Files.size(file);
+
+        long start = System.nanoTime();
+        readSequentially(file);
+        report("Raw sequential read", bytes, System.nanoTime() - start, -1);
+
+        for (int run = 1; run <= 3; run++) {
+            // Counting sink: we only want to measure parsing, not a consumer thread
+            LongAdder seen = new LongAdder();
+            start = System.nanoTime();
+            long records = ComputerImport.IMPORTER.importFile(file, batch -> seen.add(batch.size()));
+            report("Import run " + run, bytes, System.nanoTime() - start, records);
+        }
+    }
+
+    private static void generate(Path file, long targetBytes, StandardOpenOption create) throws IOException {
+        Random random = new Random(42);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file,
+                create, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE), 1 << 20)) {
+            out.write("brand,ramInGB\n".getBytes(StandardCharsets.US_ASCII));
+            long written = 0;
+            while (written < targetBytes) {
+                byte[] line = (BRANDS[random.nextInt(BRANDS.length)] + ","
+                        + RAM_SIZES[random.nextInt(RAM_SIZES.length)] + "\n").getBytes(StandardCharsets.US_ASCII);
+                out.write(line);
+                written += line.length;
+            }
+        }
+    }
+
+    private static void readSequentially(Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) > 0) {
+                buffer.clear();
+            }
+        }
+    }
+
+    private static void report(String label, long bytes, long nanos, long records) {
+        double seconds = nanos / 1e9;
+        double megabytesPerSecond = bytes / (1024.0 * 1024.0) / seconds;
+        String line = String.format("%-20s %8.2f s  %8.1f MB/s", label, seconds, megabytesPerSecond);
+        if (records >= 0) {
+            line += String.format("  %,d records", records);
+        }
+        System.out.println(line);
+    }
+}
@@ -0,0 +1,235 @@
+package Practice.Importer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+// Imports a large CSV file in parallel:
+// 1. The file is split into chunks of about chunkSize bytes. Each split point is moved
+//    forward to just after a '\n', so no line is ever cut in half.
+// 2. Each chunk is memory-mapped on its own (a single mapping is limited to 2 GB, so a
+//    5 GB file cannot be mapped in one go) and parsed by a ForkJoinPool task.
+// 3. Parsed objects are grouped into batches and handed to a BatchSink.
+// If one chunk fails, the others stop at their next row, and importFile() only throws
+// once every chunk has stopped, so nothing reaches the sink after it returns.
+public class MappedCsvImporter<T> {
+    private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+    private static final int DEFAULT_BATCH_SIZE = 4096;
+
+    private final RowMapper<T> mapper;
+    private final boolean hasHeader;
+    private final int chunkSize;
+    private final int batchSize;
+
+    public MappedCsvImporter(RowMapper<T> mapper, boolean hasHeader) {
+        this(mapper, hasHeader, DEFAULT_CHUNK_SIZE, DEFAULT_BATCH_SIZE);
+    }
+
+    public MappedCsvImporter(RowMapper<T> mapper, boolean hasHeader, int chunkSize, int batchSize) {
+        if (chunkSize <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("chunkSize and batchSize must be positive");
+        }
+        this.mapper = mapper;
+        this.hasHeader = hasHeader;
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+    }
+
+    // Imports the whole file using the given pool and returns the number of records.
+    public long importFile(Path file, BatchSink<T> sink, ForkJoinPool pool) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            List<long[]> chunks = splitAtLineBoundaries(channel);
+            LongAdder records = new LongAdder();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            List<ChunkTask> tasks = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                long[] chunk = chunks.get(i);
+                tasks.add(new ChunkTask(channel, chunk[0], chunk[1], hasHeader && i == 0, sink, records, failure));
+            }
+            // invokeAll() would rethrow the first failure while other chunks are still
+            // parsing, so every task is forked and then joined before looking at failure
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    for (ChunkTask task : tasks) {
+                        task.fork();
+                    }
+                    for (ChunkTask task : tasks) {
+                        task.quietlyJoin();
+                    }
+                }
+            });
+            Throwable error = failure.get();
+            if (error instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) error).getCause();
+            } else if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            } else if (error != null) {
+                throw (Error) error;
+            }
+            return records.sum();
+        }
+    }
+
+    public long importFile(Path file, BatchSink<T> sink) throws IOException {
+        return importFile(file, sink, ForkJoinPool.commonPool());
+    }
+
+    // Imports the whole file into a list. The list is filled by a consumer thread that
+    // drains a BlockingBatchSink, so the parser threads wait if it falls behind.
+    public List<T> importAll(Path file) throws IOException, InterruptedException {
+        BlockingBatchSink<T> sink = new BlockingBatchSink<>(64);
+        List<T> records = new ArrayList<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                sink.drainTo(records::add);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.start();
+
+        try {
+            importFile(file, sink);
+        } finally {
+            sink.close(); // Always release the consumer, even if a row fails to parse
+            consumer.join();
+        }
+        return records;
+    }
+
+    // Returns a list of { start, end } byte ranges that each end just after a newline.
+    private List<long[]> splitAtLineBoundaries(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<long[]> chunks = new ArrayList<>();
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long start = 0;
+        while (start < size) {
+            long end = Math.min(start + chunkSize, size);
+            end = nextLineStart(channel, end, size, probe);
+            chunks.add(new long[] { start, end });
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long nextLineStart(FileChannel channel, long position, long size, ByteBuffer probe) throws IOException {
+        while (position < size) {
+            probe.clear();
+            int read = channel.read(probe, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final boolean skipFirstLine;
+        private final BatchSink<T> sink;
+        private final LongAdder records;
+        private final AtomicReference<Throwable> failure; // The first error of any chunk
+
+        ChunkTask(FileChannel channel, long start, long end, boolean skipFirstLine, BatchSink<T> sink, LongAdder records,
+                AtomicReference<Throwable> failure) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.skipFirstLine = skipFirstLine;
+            this.sink = sink;
+            this.records = records;
+            this.failure = failure;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                parse();
+            } catch (RuntimeException | Error e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+
+        private void parse() {
+            if (failure.get() != null) {
+                return; // Another chunk already failed
+            }
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            buffer.order(ByteOrder.LITTLE_ENDIAN); // CsvRow scans the bytes 8 at a time
+            CsvRow row = new CsvRow();
+            List<T> batch = new ArrayList<>(batchSize);
+            int limit = buffer.limit();
+            boolean skip = skipFirstLine;
+            int lineStart = 0;
+            while (lineStart < limit) {
+                if (failure.get() != null) {
+                    return;
+                }
+                int lineEnd = row.readLine(buffer, lineStart, limit);
+                if (skip) {
+                    skip = false;
+                } else if (!row.isBlank()) {
+                    batch.add(mapRow(row, start + lineStart));
+                    if (batch.size() == batchSize) {
+                        flush(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                lineStart = lineEnd + 1;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+
+        // A message like "Column 1 is not a number." is no help in a 5 GB file without
+        // saying where the row is, so the byte offset of the line is added.
+        private T mapRow(CsvRow row, long offset) {
+            try {
+                return mapper.map(row);
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Bad row at byte offset " + offset + ": " + e.getMessage(), e);
+            }
+        }
+
+        private void flush(List<T> batch) {
+            if (failure.get() != null) {
+                return;
+            }
+            records.add(batch.size());
+            try {
+                sink.accept(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Import was interrupted.", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package Practice.Importer;
+
+// Turns one CSV row into an object, e.g. "Dell,16" into new Computer("Dell", 16).
+public interface RowMapper<T> {
+    T map(CsvRow row);
+}
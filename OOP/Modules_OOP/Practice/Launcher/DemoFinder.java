@@ -0,0 +1,89 @@
+package Practice.Launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+// Finds every class under Practice.Module* that has a "static void main(String[])".
+// Classes are loaded without being initialized, so no demo code runs while searching.
+final class DemoFinder {
+    private static final String DEMO_PREFIX = "Practice/Module";
+
+    private DemoFinder() {
+    }
+
+    // Returns the main methods, sorted by class name, whose class name contains any of
+    // the filters (or all of them when there are no filters).
+    static List<Method> find(List<String> filters) throws IOException {
+        TreeMap<String, Method> demos = new TreeMap<>();
+        ClassLoader loader = DemoFinder.class.getClassLoader();
+        for (String className : classNamesOnClassPath()) {
+            if (!matches(className, filters)) {
+                continue;
+            }
+            try {
+                Class<?> type = Class.forName(className, false, loader);
+                Method main = type.getDeclaredMethod("main", String[].class);
+                if (Modifier.isStatic(main.getModifiers()) && main.getReturnType() == void.class) {
+                    main.setAccessible(true); // Many demo classes are package-private
+                    demos.put(className, main);
+                }
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                // Not a demo
+            }
+        }
+        return new ArrayList<>(demos.values());
+    }
+
+    private static boolean matches(String className, List<String> filters) {
+        if (filters.isEmpty()) {
+            return true;
+        }
+        for (String filter : filters) {
+            if (className.contains(filter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> classNamesOnClassPath() throws IOException {
+        List<String> names = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            Path path = Path.of(entry);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.walk(path)) {
+                    files.forEach(file -> addIfDemoClass(names, path.relativize(file).toString().replace(File.separatorChar, '/')));
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            } else if (entry.endsWith(".jar") && Files.isRegularFile(path)) {
+                try (JarFile jar = new JarFile(path.toFile())) {
+                    Enumeration<JarEntry> entries = jar.entries();
+                    while (entries.hasMoreElements()) {
+                        addIfDemoClass(names, entries.nextElement().getName());
+                    }
+                }
+            }
+        }
+        return names;
+    }
+
+    // Skips nested and anonymous classes (their names contain '$').
+    private static void addIfDemoClass(List<String> names, String resource) {
+        if (resource.startsWith(DEMO_PREFIX) && resource.endsWith(".class") && resource.indexOf('$') < 0) {
+            names.add(resource.substring(0, resource.length() - ".class".length()).replace('/', '.'));
+        }
+    }
+}
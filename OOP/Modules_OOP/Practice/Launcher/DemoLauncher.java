@@ -0,0 +1,231 @@
+package Practice.Launcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+// Runs the Practice demos inside one JVM instead of starting a new JVM for each one.
+//
+// Usage: DemoLauncher [--parallel N] [--quiet] [--build-cds archive.jsa] [filter ...]
+//   filter       Only run demos whose class name contains this text, e.g. Module6 or Box
+//   --parallel   Run up to N demos at the same time (each demo's output is kept separate)
+//   --quiet      Only print the timing table, not the demos' own output
+//   --build-cds  Record an AppCDS archive of the classes the demos load, then compare
+//                the cold start time of a new JVM with and without it
+public class DemoLauncher {
+    private static final class Result {
+        final String name;
+        String output = "";
+        String failure;
+        long nanos;
+        long classesLoaded = -1;
+
+        Result(String name) {
+            this.name = name;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = 1;
+        boolean quiet = false;
+        String cdsArchive = null;
+        List<String> filters = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--parallel":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--quiet":
+                    quiet = true;
+                    break;
+                case "--build-cds":
+                    cdsArchive = args[++i];
+                    break;
+                default:
+                    filters.add(args[i]);
+            }
+        }
+
+        if (cdsArchive != null) {
+            buildCdsArchive(cdsArchive, filters);
+            return;
+        }
+
+        List<Method> demos = DemoFinder.find(filters);
+        if (demos.isEmpty()) {
+            System.out.println("No demos found. Is the compiled Practice package on the class path?");
+            return;
+        }
+
+        OutputCapture capture = OutputCapture.install();
+        List<Result> results;
+        long start = System.nanoTime();
+        try {
+            results = threads > 1 ? runConcurrently(demos, capture, threads) : runSequentially(demos, capture);
+        } finally {
+            capture.uninstall();
+        }
+        long totalNanos = System.nanoTime() - start;
+
+        if (!quiet) {
+            for (Result result : results) {
+                System.out.println("=== " + result.name);
+                System.out.print(result.output);
+                if (result.failure != null) {
+                    System.out.println("!!! " + result.failure);
+                }
+            }
+            System.out.println();
+        }
+        printSummary(results, totalNanos, threads > 1);
+    }
+
+    private static List<Result> runSequentially(List<Method> demos, OutputCapture capture) {
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        List<Result> results = new ArrayList<>();
+        for (Method demo : demos) {
+            long loadedBefore = classLoading.getTotalLoadedClassCount();
+            Result result = run(demo, capture);
+            result.classesLoaded = classLoading.getTotalLoadedClassCount() - loadedBefore;
+            results.add(result);
+        }
+        return results;
+    }
+
+    // Class load counts are JVM-wide, so they cannot be split per demo in this mode.
+    private static List<Result> runConcurrently(List<Method> demos, OutputCapture capture, int threads) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (Method demo : demos) {
+                futures.add(pool.submit(() -> run(demo, capture)));
+            }
+            List<Result> results = new ArrayList<>();
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Result run(Method demo, OutputCapture capture) {
+        Result result = new Result(demo.getDeclaringClass().getName());
+        capture.begin();
+        long start = System.nanoTime();
+        try {
+            demo.invoke(null, (Object) new String[0]);
+        } catch (InvocationTargetException e) {
+            result.failure = e.getCause().toString();
+        } catch (IllegalAccessException e) {
+            result.failure = e.toString();
+        } finally {
+            result.nanos = System.nanoTime() - start;
+            result.output = capture.end();
+        }
+        return result;
+    }
+
+    private static void printSummary(List<Result> results, long totalNanos, boolean concurrent) {
+        System.out.printf("%-66s %-6s %10s %8s%n", "Demo", "Status", "Time (ms)", "Classes");
+        for (Result result : results) {
+            System.out.printf("%-66s %-6s %10.2f %8s%n",
+                    result.name,
+                    result.failure == null ? "OK" : "FAILED",
+                    result.nanos / 1e6,
+                    result.classesLoaded < 0 ? "-" : String.valueOf(result.classesLoaded));
+        }
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        System.out.printf("%d demos in %.2f ms%s, %d classes loaded by this JVM%n",
+                results.size(), totalNanos / 1e6, concurrent ? " (concurrent)" : "",
+                classLoading.getTotalLoadedClassCount());
+    }
+
+    // Starts a child JVM that runs the selected demos and dumps every class it loaded
+    // into a dynamic AppCDS archive (-XX:ArchiveClassesAtExit, JDK 13+). Later JVMs that
+    // start with -XX:SharedArchiveFile map those classes in instead of parsing them again.
+    private static void buildCdsArchive(String archive, List<String> filters) throws IOException, InterruptedException {
+        List<String> demoArgs = new ArrayList<>();
+        demoArgs.add("--quiet");
+        demoArgs.addAll(filters);
+
+        String classPath = jarClassPath(archive);
+        System.out.println("Recording AppCDS archive " + archive + " ...");
+        int exitCode = runChild(classPath, List.of("-XX:ArchiveClassesAtExit=" + archive), demoArgs);
+        if (exitCode != 0) {
+            System.out.println("Recording failed with exit code " + exitCode + ".");
+            return;
+        }
+
+        // Take the best of a few runs, since the first one also warms the OS file cache
+        long withoutCds = Long.MAX_VALUE;
+        long withCds = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            withoutCds = Math.min(withoutCds, timeChild(classPath, List.of("-Xshare:auto"), demoArgs));
+            withCds = Math.min(withCds, timeChild(classPath, List.of("-XX:SharedArchiveFile=" + archive), demoArgs));
+        }
+        System.out.printf("Cold start without AppCDS: %8.2f ms%n", withoutCds / 1e6);
+        System.out.printf("Cold start with AppCDS:    %8.2f ms%n", withCds / 1e6);
+        System.out.println("Run with: java -XX:SharedArchiveFile=" + archive + " -cp " + classPath + " " + DemoLauncher.class.getName());
+    }
+
+    // CDS only accepts jar files on the class path, so every class directory (such as
+    // IntelliJ's out/production folder) is packed into a jar next to the archive.
+    private static String jarClassPath(String archive) throws IOException {
+        List<String> entries = new ArrayList<>();
+        int jarCount = 0;
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            Path directory = Path.of(entry);
+            if (!Files.isDirectory(directory)) {
+                entries.add(entry);
+                continue;
+            }
+            Path jar = Path.of(archive + "-classes-" + jarCount++ + ".jar").toAbsolutePath();
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                 Stream<Path> files = Files.walk(directory)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    out.putNextEntry(new JarEntry(directory.relativize(file).toString().replace(File.separatorChar, '/')));
+                    Files.copy(file, out);
+                    out.closeEntry();
+                }
+            }
+            entries.add(jar.toString());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static long timeChild(String classPath, List<String> jvmOptions, List<String> demoArgs) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        runChild(classPath, jvmOptions, demoArgs);
+        return System.nanoTime() - start;
+    }
+
+    private static int runChild(String classPath, List<String> jvmOptions, List<String> demoArgs) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(classPath);
+        command.add(DemoLauncher.class.getName());
+        command.addAll(demoArgs);
+        return new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start()
+                .waitFor();
+    }
+}
@@ -0,0 +1,56 @@
+package Practice.Launcher;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+// Replaces System.out with a stream that sends each thread's output to its own buffer.
+// This lets several demos print at the same time without their lines getting mixed up.
+// The buffer is inherited by threads a demo starts, so their output is captured too.
+final class OutputCapture extends OutputStream {
+    private final PrintStream original;
+    private final InheritableThreadLocal<ByteArrayOutputStream> target = new InheritableThreadLocal<>();
+
+    private OutputCapture(PrintStream original) {
+        this.original = original;
+    }
+
+    // Installs the capture as System.out and returns it.
+    static OutputCapture install() {
+        OutputCapture capture = new OutputCapture(System.out);
+        System.setOut(new PrintStream(capture, true));
+        return capture;
+    }
+
+    // Starts capturing everything the current thread prints.
+    void begin() {
+        target.set(new ByteArrayOutputStream());
+    }
+
+    // Stops capturing and returns what was printed since begin().
+    String end() {
+        ByteArrayOutputStream buffer = target.get();
+        target.remove();
+        return buffer == null ? "" : buffer.toString();
+    }
+
+    void uninstall() {
+        System.setOut(original);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        streamFor().write(b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        streamFor().write(bytes, offset, length);
+    }
+
+    private OutputStream streamFor() {
+        ByteArrayOutputStream buffer = target.get();
+        return buffer != null ? buffer : original;
+    }
+}
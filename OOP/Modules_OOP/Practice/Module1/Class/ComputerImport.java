@@ -0,0 +1,28 @@
+package Practice.Module1.Class;
+
+import Practice.Importer.MappedCsvImporter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+// Bulk-loads computers from a CSV export with the columns: brand,ramInGB
+public class ComputerImport {
+    public static final MappedCsvImporter<Computer> IMPORTER =
+            new MappedCsvImporter<>(row -> new Computer(row.getString(0), row.getInt(1)), true);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: ComputerImport <computers.csv>");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+
+        List<Computer> inventory = IMPORTER.importAll(file);
+
+        System.out.println("Imported " + inventory.size() + " computers.");
+        if (!inventory.isEmpty()) {
+            inventory.get(0).displayInfo();
+        }
+    }
+}
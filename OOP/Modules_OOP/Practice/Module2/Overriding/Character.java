@@ -1,15 +1,69 @@
 package Practice.Module2.Overriding;
 
+import Practice.Scheduling.TimingWheel;
+
+import java.util.concurrent.TimeUnit;
+
 class Character {
+    private TimingWheel cooldowns;   // Shared by every character in the game
+    private long cooldownMillis;
+    private long cooldownTimer = TimingWheel.NO_TIMER;
+
+    // A character without a cooldown can use its ability at any time
+    Character() {
+    }
+
+    Character(TimingWheel cooldowns, long cooldownMillis) {
+        this.cooldowns = cooldowns;
+        this.cooldownMillis = cooldownMillis;
+    }
+
     void useAbility() {
+        if (!startCooldown()) {
+            return;
+        }
         System.out.println("Using a generic ability.");
     }
+
+    // Returns false while the previous cooldown is still running, otherwise starts a new one.
+    // Subclasses that override useAbility() call this first.
+    protected boolean startCooldown() {
+        if (cooldowns == null) {
+            return true;
+        }
+        if (cooldowns.isPending(cooldownTimer)) {
+            System.out.println("Ability is on cooldown.");
+            return false;
+        }
+        cooldownTimer = cooldowns.schedule(cooldownMillis, TimeUnit.MILLISECONDS, null);
+        return true;
+    }
+
+    // Runs an effect later, e.g. damage that lands after a spell's travel time.
+    // A character without a wheel has no game clock, so it keeps its old behavior and
+    // the delayed effect is left out.
+    protected void after(long delayMillis, Runnable effect) {
+        if (cooldowns != null) {
+            cooldowns.schedule(delayMillis, TimeUnit.MILLISECONDS, effect);
+        }
+    }
 }
 
 class Mage extends Character {
+    Mage() {
+    }
+
+    Mage(TimingWheel cooldowns, long cooldownMillis) {
+        super(cooldowns, cooldownMillis);
+    }
+
     @Override
     void useAbility() {
+        if (!startCooldown()) {
+            return;
+        }
         System.out.println("Casting a fireball! 🔥");
+        after(500, () -> System.out.println("The fireball explodes!"));
     }
 }
 
@@ -23,5 +77,22 @@ class CharacterMain {
         
         Mage newMage = new Mage();
         newMage.useAbility();
+
+        System.out.println("--- With cooldowns ---");
+
+        // The game clock starts at 0 and moves in 10 ms ticks
+        long now = 0;
+        TimingWheel wheel = new TimingWheel(10, TimeUnit.MILLISECONDS, now);
+        Mage mage = new Mage(wheel, 1000);
+
+        mage.useAbility(); // Casts, cooldown starts
+
+        now += TimeUnit.MILLISECONDS.toNanos(600);
+        wheel.advanceTo(now); // The fireball explodes
+        mage.useAbility(); // Rejected, 400 ms left
+
+        now += TimeUnit.MILLISECONDS.toNanos(400);
+        wheel.advanceTo(now);
+        mage.useAbility(); // Cooldown is over
     }
 }
\ No newline at end of file
@@ -0,0 +1,95 @@
+package Practice.Module4.Generic;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.UnaryOperator;
+
+// A Box that can be safely shared between threads.
+// getValue() and setValue() are volatile, so a value set by one thread is always seen
+// by the others. The extra methods use a VarHandle for atomic and acquire/release access.
+public class AtomicBox<T> extends Box<T> {
+    private static final VarHandle VALUE;
+
+    static {
+        try {
+            VALUE = MethodHandles.lookup().findVarHandle(AtomicBox.class, "value", Object.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // Shadows Box's plain field; every access goes through this volatile one instead.
+    private volatile T value;
+
+    public AtomicBox(T value) {
+        super(null);
+        this.value = value;
+    }
+
+    @Override
+    public T getValue() {
+        return value; // A plain volatile load
+    }
+
+    @Override
+    public void setValue(T value) {
+        this.value = value;
+    }
+
+    // Weaker than getValue(): still sees everything written before a matching setRelease().
+    @SuppressWarnings("unchecked")
+    public T getAcquire() {
+        return (T) VALUE.getAcquire(this);
+    }
+
+    // Weaker than setValue(): publishes the value to threads that read it with getAcquire().
+    public void setRelease(T value) {
+        VALUE.setRelease(this, value);
+    }
+
+    // Sets the value only if it is still the expected one (compared with ==).
+    public boolean compareAndSet(T expected, T newValue) {
+        return VALUE.compareAndSet(this, expected, newValue);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T getAndSet(T newValue) {
+        return (T) VALUE.getAndSet(this, newValue);
+    }
+
+    // Applies the function until it wins the race. The function may run more than once,
+    // so it should have no side effects.
+    public T updateAndGet(UnaryOperator<T> update) {
+        while (true) {
+            T current = value;
+            T next = update.apply(current);
+            if (VALUE.weakCompareAndSet(this, current, next)) {
+                return next;
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        AtomicBox<Integer> counter = new AtomicBox<>(0);
+
+        // Two threads add to the same box; no update is lost
+        Runnable work = () -> {
+            for (int i = 0; i < 10_000; i++) {
+                counter.updateAndGet(n -> n + 1);
+            }
+        };
+        Thread first = new Thread(work);
+        Thread second = new Thread(work);
+        first.start();
+        second.start();
+        try {
+            first.join();
+            second.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        System.out.println("Counter Value: " + counter.getValue()); // 20000
+    }
+}
@@ -0,0 +1,61 @@
+package Practice.Module4.Generic;
+
+import java.util.function.Supplier;
+
+// A Box whose value is only created the first time someone asks for it.
+// The supplier runs at most once, even when many threads call getValue() together.
+// After that, getValue() is a single volatile read with no locking.
+public class LazyBox<T> extends Box<T> {
+    // Marks "not created yet", so that null can still be a real value
+    private static final Object UNSET = new Object();
+
+    private volatile Object value = UNSET;
+    private Supplier<? extends T> supplier; // Cleared once used, so it can be garbage collected
+
+    public LazyBox(Supplier<? extends T> supplier) {
+        super(null);
+        this.supplier = supplier;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        Object current = value;
+        if (current != UNSET) {
+            return (T) current; // Fast path: already created
+        }
+        return initialize();
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized T initialize() {
+        // Check again: another thread may have created it while we waited for the lock
+        if (value == UNSET) {
+            value = supplier.get();
+            supplier = null;
+        }
+        return (T) value;
+    }
+
+    // Replaces the value. If it was not created yet, the supplier is never called.
+    @Override
+    public synchronized void setValue(T value) {
+        this.value = value;
+        this.supplier = null;
+    }
+
+    public boolean isInitialized() {
+        return value != UNSET;
+    }
+
+    public static void main(String[] args) {
+        LazyBox<String> configBox = new LazyBox<>(() -> {
+            System.out.println("Loading config...");
+            return "theme=Dark";
+        });
+
+        System.out.println("Created: " + configBox.isInitialized()); // false
+        System.out.println("Config Value: " + configBox.getValue()); // Loads it now
+        System.out.println("Config Value: " + configBox.getValue()); // Already loaded
+    }
+}
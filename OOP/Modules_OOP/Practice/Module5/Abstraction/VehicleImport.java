@@ -0,0 +1,36 @@
+package Practice.Module5.Abstraction;
+
+import Practice.Importer.MappedCsvImporter;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+// Bulk-loads vehicles from a CSV export with the columns: type,brand
+// where type is either "car" or "scooter".
+public class VehicleImport {
+    public static final MappedCsvImporter<Vehicle> IMPORTER = new MappedCsvImporter<>(row -> {
+        // Compare the type column in place so no String is created for it
+        if (row.fieldEquals(0, "car")) {
+            return new Car(row.getString(1));
+        } else if (row.fieldEquals(0, "scooter")) {
+            return new ElectricScooter(row.getString(1));
+        }
+        throw new IllegalArgumentException("Unknown vehicle type: " + row.getString(0));
+    }, true);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: VehicleImport <vehicles.csv>");
+            return;
+        }
+        Path file = Paths.get(args[0]);
+
+        List<Vehicle> fleet = IMPORTER.importAll(file);
+
+        System.out.println("Imported " + fleet.size() + " vehicles.");
+        for (int i = 0; i < Math.min(2, fleet.size()); i++) {
+            fleet.get(i).start();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package Practice.Module6.Behavioral;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// A thread-safe cache with a maximum size and a time-to-live for every entry.
+// - Reads go straight to a ConcurrentHashMap, so they never wait for a lock. Any
+//   bookkeeping a read does (LRU order, removing an expired entry) uses tryLock and is
+//   skipped when another thread holds the lock.
+// - The least recently used order is kept in a LinkedHashMap guarded by a lock.
+//   Skipping a touch just makes the order slightly less exact, it never makes the cache wrong.
+// - When the cache is full, a new key is only admitted if the FrequencySketch says it
+//   is used more often than the entry it would evict (TinyLFU admission). This stops
+//   one-off lookups from pushing out entries that are used on every checkout.
+final class BoundedCache<K, V> {
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+
+    private final ConcurrentHashMap<K, Entry<V>> data = new ConcurrentHashMap<>();
+    private final LinkedHashMap<K, Boolean> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final int maximumSize;
+    private final long ttlNanos;
+
+    BoundedCache(int maximumSize, long ttl, TimeUnit unit) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    // Returns the cached value, or null if it is missing or has expired.
+    V get(K key) {
+        sketch.increment(key);
+        Entry<V> entry = data.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            // Clean up only if the lock is free; otherwise put() overwrites the entry or
+            // evicts it as an expired victim later
+            if (evictionLock.tryLock()) {
+                try {
+                    if (data.remove(key, entry)) {
+                        accessOrder.remove(key);
+                    }
+                } finally {
+                    evictionLock.unlock();
+                }
+            }
+            return null;
+        }
+        if (evictionLock.tryLock()) {
+            try {
+                accessOrder.get(key); // Moves the key to the most recently used end
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return entry.value;
+    }
+
+    // Returns the cached value, or computes and caches it on a miss.
+    V getOrCompute(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    // Stores a value. Returns false if the admission policy rejected it.
+    boolean put(K key, V value) {
+        evictionLock.lock();
+        try {
+            long now = System.nanoTime();
+            if (!data.containsKey(key) && data.size() >= maximumSize) {
+                Iterator<K> lru = accessOrder.keySet().iterator();
+                K victim = lru.next();
+                Entry<V> victimEntry = data.get(victim);
+                boolean victimExpired = victimEntry == null || victimEntry.isExpired(now);
+                if (!victimExpired && sketch.frequency(key) <= sketch.frequency(victim)) {
+                    return false;
+                }
+                lru.remove();
+                data.remove(victim);
+            }
+            data.put(key, new Entry<>(value, now + ttlNanos));
+            accessOrder.put(key, Boolean.TRUE);
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    void invalidate(K key) {
+        evictionLock.lock();
+        try {
+            data.remove(key);
+            accessOrder.remove(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    int size() {
+        return data.size();
+    }
+}
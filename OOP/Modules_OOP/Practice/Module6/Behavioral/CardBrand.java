@@ -0,0 +1,48 @@
+package Practice.Module6.Behavioral;
+
+// Each card brand owns a set of BIN (Bank Identification Number) prefix ranges.
+// The BIN is the leading digits of the card number and tells us who issued it.
+enum CardBrand {
+    VISA(new int[][] { { 4, 4 } }, 13, 19),
+    MASTERCARD(new int[][] { { 51, 55 }, { 2221, 2720 } }, 16, 16),
+    AMEX(new int[][] { { 34, 34 }, { 37, 37 } }, 15, 15),
+    UNKNOWN(new int[0][], 0, 0);
+
+    // Each range is { low, high } and both ends are inclusive.
+    private final int[][] binRanges;
+    private final int minLength;
+    private final int maxLength;
+
+    CardBrand(int[][] binRanges, int minLength, int maxLength) {
+        this.binRanges = binRanges;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    // Finds the brand whose BIN range contains the leading digits of the card.
+    static CardBrand fromDigits(byte[] digits) {
+        for (CardBrand brand : values()) {
+            if (brand != UNKNOWN && brand.matches(digits)) {
+                return brand;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    private boolean matches(byte[] digits) {
+        if (digits.length < minLength || digits.length > maxLength) {
+            return false;
+        }
+        for (int[] range : binRanges) {
+            int prefixLength = String.valueOf(range[0]).length();
+            int prefix = 0;
+            for (int i = 0; i < prefixLength; i++) {
+                prefix = prefix * 10 + digits[i];
+            }
+            if (prefix >= range[0] && prefix <= range[1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,63 @@
+package Practice.Module6.Behavioral;
+
+// The immutable result of validating a card. It never holds the card number itself,
+// only what we learned about it, so it is safe to keep in a cache.
+final class CardValidation {
+    private final CardBrand brand;
+    private final boolean luhnValid;
+    private final String lastFour;
+
+    private CardValidation(CardBrand brand, boolean luhnValid, String lastFour) {
+        this.brand = brand;
+        this.luhnValid = luhnValid;
+        this.lastFour = lastFour;
+    }
+
+    // Runs the Luhn checksum and the BIN range lookup over the raw digits.
+    static CardValidation of(byte[] digits) {
+        StringBuilder lastFour = new StringBuilder();
+        for (int i = Math.max(0, digits.length - 4); i < digits.length; i++) {
+            lastFour.append(digits[i]);
+        }
+        return new CardValidation(CardBrand.fromDigits(digits), passesLuhn(digits), lastFour.toString());
+    }
+
+    // Luhn: starting from the right, double every second digit (subtracting 9 when the
+    // result is above 9) and the total must be divisible by 10.
+    private static boolean passesLuhn(byte[] digits) {
+        if (digits.length == 0) {
+            return false;
+        }
+        int sum = 0;
+        boolean doubleIt = false;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int d = digits[i];
+            if (doubleIt) {
+                d *= 2;
+                if (d > 9) {
+                    d -= 9;
+                }
+            }
+            sum += d;
+            doubleIt = !doubleIt;
+        }
+        return sum % 10 == 0;
+    }
+
+    public boolean isValid() {
+        return luhnValid && brand != CardBrand.UNKNOWN;
+    }
+
+    public CardBrand getBrand() {
+        return brand;
+    }
+
+    public boolean isLuhnValid() {
+        return luhnValid;
+    }
+
+    // A masked form such as "**** 1111" that is safe to print.
+    public String getMaskedNumber() {
+        return "**** " + lastFour;
+    }
+}
@@ -0,0 +1,86 @@
+package Practice.Module6.Behavioral;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// The vault is the only place that ever sees a real card number.
+// Everyone else (payments, carts, logs) only gets an opaque token like "tok_3f9a...".
+// Card digits are kept as a byte[] instead of a String so they can be wiped with
+// forget(), and validation results are cached so a checkout does not re-run the
+// Luhn and BIN checks every time.
+class CardVault {
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final long DEFAULT_TTL_MINUTES = 15;
+
+    private final ConcurrentHashMap<String, byte[]> cards = new ConcurrentHashMap<>();
+    private final BoundedCache<String, CardValidation> validations;
+    private final SecureRandom random = new SecureRandom();
+
+    public CardVault() {
+        this(DEFAULT_CACHE_SIZE, DEFAULT_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    public CardVault(int cacheSize, long ttl, TimeUnit unit) {
+        this.validations = new BoundedCache<>(cacheSize, ttl, unit);
+    }
+
+    // Exchanges a card number for a token. Spaces and dashes are ignored.
+    public String tokenize(String cardNumber) {
+        byte[] digits = new byte[cardNumber.length()];
+        int length = 0;
+        for (int i = 0; i < cardNumber.length(); i++) {
+            char c = cardNumber.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits[length++] = (byte) (c - '0');
+            } else if (c != ' ' && c != '-') {
+                throw new IllegalArgumentException("Card number may only contain digits, spaces and dashes.");
+            }
+        }
+        if (length == 0) {
+            throw new IllegalArgumentException("Card number cannot be empty.");
+        }
+        byte[] trimmed = new byte[length];
+        System.arraycopy(digits, 0, trimmed, 0, length);
+        Arrays.fill(digits, (byte) 0);
+
+        String token = newToken();
+        cards.put(token, trimmed);
+        return token;
+    }
+
+    // Returns the (possibly cached) validation result for a token.
+    public CardValidation validate(String token) {
+        return validations.getOrCompute(token, t -> {
+            byte[] digits = cards.get(t);
+            if (digits == null) {
+                throw new IllegalArgumentException("Unknown card token.");
+            }
+            return CardValidation.of(digits);
+        });
+    }
+
+    // Removes a card from the vault and wipes its digits from memory.
+    public void forget(String token) {
+        byte[] digits = cards.remove(token);
+        if (digits != null) {
+            Arrays.fill(digits, (byte) 0);
+        }
+        validations.invalidate(token);
+    }
+
+    private String newToken() {
+        byte[] bytes = new byte[16];
+        StringBuilder token = new StringBuilder("tok_");
+        do {
+            random.nextBytes(bytes);
+            token.setLength(4);
+            for (byte b : bytes) {
+                token.append(Character.forDigit((b >> 4) & 0xF, 16));
+                token.append(Character.forDigit(b & 0xF, 16));
+            }
+        } while (cards.containsKey(token.toString()));
+        return token.toString();
+    }
+}
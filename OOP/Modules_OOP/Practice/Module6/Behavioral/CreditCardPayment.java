@@ -2,15 +2,23 @@ package Practice.Module6.Behavioral;
 
 class CreditCardPayment implements PaymentStrategy {
     private String name;
-    private String cardNumber;
+    private String cardToken; // An opaque token from the CardVault, never the real card number
+    private CardVault vault;
 
-    public CreditCardPayment(String name, String cardNumber) {
+    public CreditCardPayment(String name, String cardToken, CardVault vault) {
         this.name = name;
-        this.cardNumber = cardNumber;
+        this.cardToken = cardToken;
+        this.vault = vault;
     }
 
     @Override
     public void pay(int amount) {
-        System.out.println(amount + " paid with credit card " + cardNumber);
+        // The vault caches validation results, so repeated checkouts skip the Luhn and BIN checks
+        CardValidation card = vault.validate(cardToken);
+        if (!card.isValid()) {
+            System.out.println("Payment declined: credit card " + card.getMaskedNumber() + " is not valid.");
+            return;
+        }
+        System.out.println(amount + " paid with " + card.getBrand() + " credit card " + card.getMaskedNumber());
     }
 }
@@ -0,0 +1,67 @@
+package Practice.Module6.Behavioral;
+
+// A Count-Min Sketch that estimates how often a key has been seen, using a fixed
+// amount of memory no matter how many distinct keys pass through it.
+// Counters saturate at 15 and are halved periodically, so old popularity fades
+// and recently popular keys win (this is the "TinyLFU" idea).
+final class FrequencySketch {
+    private static final int MAX_COUNT = 15;
+    private static final int[] SEEDS = { 0x97cb3127, 0xb6b1e5d3, 0x5c6f4e2b, 0x7f4a7c15 };
+
+    private final int[] table;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int width = Integer.highestOneBit(Math.max(16, maximumSize) * 2 - 1);
+        this.table = new int[width];
+        this.mask = width - 1;
+        this.sampleSize = 10 * Math.max(16, maximumSize);
+    }
+
+    // Counters are updated without locking. A lost increment under contention only
+    // makes the estimate slightly lower, which is fine for an admission heuristic.
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int seed : SEEDS) {
+            int index = indexOf(hash, seed);
+            if (table[index] < MAX_COUNT) {
+                table[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    // The estimate is the smallest of the counters, since collisions can only inflate them.
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int seed : SEEDS) {
+            frequency = Math.min(frequency, table[indexOf(hash, seed)]);
+        }
+        return frequency;
+    }
+
+    // Halve every counter so that the sketch follows changes in popularity over time.
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] >>>= 1;
+        }
+        additions = 0;
+    }
+
+    private int indexOf(int hash, int seed) {
+        int h = (hash + seed) * seed;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static int spread(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -4,8 +4,12 @@ public class Main {
     public static void main(String[] args) {
         ShoppingCart cart = new ShoppingCart();
 
+        // The card number is exchanged for a token, so the payment never holds the real number
+        CardVault vault = new CardVault();
+        String cardToken = vault.tokenize("4111-1111-1111-1111");
+
         // Pay using Credit Card
-        PaymentStrategy creditCard = new CreditCardPayment("John Doe", "1234-5678-9012-3456");
+        PaymentStrategy creditCard = new CreditCardPayment("John Doe", cardToken, vault);
         cart.setPaymentStrategy(creditCard);
         cart.checkout(150);
 
@@ -15,5 +19,12 @@ public class Main {
         PaymentStrategy paypal = new PayPalPayment("john.doe@example.com");
         cart.setPaymentStrategy(paypal);
         cart.checkout(200);
+
+        System.out.println("--- Paying with an invalid card ---");
+
+        // This number fails the Luhn check, so the payment is declined
+        PaymentStrategy badCard = new CreditCardPayment("John Doe", vault.tokenize("1234-5678-9012-3456"), vault);
+        cart.setPaymentStrategy(badCard);
+        cart.checkout(50);
     }
 }
\ No newline at end of file
@@ -0,0 +1,235 @@
+package Practice.Scheduling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+// A hierarchical timing wheel: a scheduler built for huge numbers of short timers,
+// such as ability cooldowns for every character in a game.
+//
+// Time moves in fixed ticks. Level 0 has 64 slots, one per tick. Level 1 has 64 slots
+// that each cover 64 ticks, level 2 covers 64 * 64 ticks per slot, and so on. A timer
+// goes into the slot that matches its deadline, so scheduling and cancelling are O(1).
+// When level 0 wraps around, the next level 1 slot is "cascaded": its timers move down
+// into level 0, the same way the minute hand moves the hour hand.
+//
+// Timers are not objects. Each one is a row in a few parallel arrays, linked into its
+// slot by index, so every timer costs the same fixed number of bytes. A timer is
+// identified by a long handle that includes a generation number, so a handle for a
+// timer that already fired or was cancelled never matches a newer timer in the same row.
+//
+// The wheel is not thread-safe. It is meant to be driven by a single game loop that
+// calls advanceTo() once per frame.
+public class TimingWheel {
+    public static final long NO_TIMER = -1;
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS); // Ticks the wheel can hold directly
+    private static final int NONE = -1;
+
+    private final long tickNanos;
+    private final long startNanos;
+    private long currentTick;
+
+    // Head row of the timer list in each slot, indexed by level * SLOTS + slot
+    private final int[] slotHeads = new int[LEVELS * SLOTS];
+
+    // One entry per timer row
+    private long[] deadlines;
+    private int[] next;
+    private int[] prev;
+    private int[] slotOf;
+    private int[] generations;
+    private Runnable[] tasks;
+
+    private int freeHead = NONE; // Rows that can be reused, linked through next[]
+    private int used;            // Rows handed out at least once
+    private int pending;
+
+    private final ArrayList<Runnable> dueTasks = new ArrayList<>();
+
+    public TimingWheel(long tickDuration, TimeUnit unit, long startNanos) {
+        this(tickDuration, unit, startNanos, 1024);
+    }
+
+    public TimingWheel(long tickDuration, TimeUnit unit, long startNanos, int initialCapacity) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.startNanos = startNanos;
+        int capacity = Math.max(16, initialCapacity);
+        deadlines = new long[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        slotOf = new int[capacity];
+        generations = new int[capacity];
+        tasks = new Runnable[capacity];
+        Arrays.fill(slotHeads, NONE);
+    }
+
+    // Schedules a timer and returns its handle. The task may be null when all you need is
+    // to ask isPending(), which is how cooldowns use the wheel.
+    public long schedule(long delay, TimeUnit unit, Runnable task) {
+        long delayNanos = unit.toNanos(delay);
+        long deadline = currentTick + Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        int row = allocateRow();
+        deadlines[row] = deadline;
+        tasks[row] = task;
+        place(row);
+        pending++;
+        return ((long) generations[row] << 32) | row;
+    }
+
+    // Cancels a timer. Returns false if it already fired or was cancelled.
+    public boolean cancel(long handle) {
+        if (!isPending(handle)) {
+            return false;
+        }
+        int row = (int) handle;
+        unlink(row);
+        freeRow(row);
+        pending--;
+        return true;
+    }
+
+    public boolean isPending(long handle) {
+        if (handle == NO_TIMER) {
+            return false;
+        }
+        int row = (int) handle;
+        return row >= 0 && row < used && generations[row] == (int) (handle >>> 32) && slotOf[row] != NONE;
+    }
+
+    // Moves the wheel forward to the given time and runs every timer that is now due.
+    // All timers of one tick are expired together as a batch. Returns how many fired.
+    public int advanceTo(long nowNanos) {
+        long targetTick = (nowNanos - startNanos) / tickNanos;
+        int fired = 0;
+        while (currentTick < targetTick) {
+            if (pending == 0) {
+                currentTick = targetTick; // Nothing to do, skip the empty ticks
+                break;
+            }
+            currentTick++;
+            cascade();
+            fired += expire((int) (currentTick & SLOT_MASK));
+        }
+        return fired;
+    }
+
+    public int pendingCount() {
+        return pending;
+    }
+
+    // When the lower levels wrap around, move the timers from the matching slot of each
+    // higher level down. Higher levels go first so their timers can fall through.
+    private void cascade() {
+        int level = 1;
+        while (level < LEVELS && (currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+            level++;
+        }
+        for (int l = level - 1; l >= 1; l--) {
+            int slot = l * SLOTS + (int) ((currentTick >>> (SLOT_BITS * l)) & SLOT_MASK);
+            int row = slotHeads[slot];
+            slotHeads[slot] = NONE;
+            while (row != NONE) {
+                int following = next[row];
+                place(row);
+                row = following;
+            }
+        }
+    }
+
+    // Every row in a level 0 slot is due when that slot comes up: place() only puts rows
+    // there whose deadline is less than 64 ticks away, and timers beyond the wheel's span
+    // are parked in the top level and placed again by cascade(), never in level 0.
+    // Tasks run only after the whole slot has been processed, so a task that schedules
+    // or cancels other timers cannot disturb the list being walked.
+    private int expire(int slot) {
+        int row = slotHeads[slot];
+        slotHeads[slot] = NONE;
+        int fired = 0;
+        while (row != NONE) {
+            int following = next[row];
+            if (tasks[row] != null) {
+                dueTasks.add(tasks[row]);
+            }
+            freeRow(row);
+            pending--;
+            fired++;
+            row = following;
+        }
+        for (int i = 0; i < dueTasks.size(); i++) {
+            dueTasks.get(i).run();
+        }
+        dueTasks.clear();
+        return fired;
+    }
+
+    // Puts a row at the head of the slot that matches its deadline.
+    private void place(int row) {
+        long deadline = Math.max(deadlines[row], currentTick);
+        long delta = deadline - currentTick;
+        if (delta >= MAX_SPAN) {
+            deadline = currentTick + MAX_SPAN - 1; // Park it in the farthest slot for now
+            delta = MAX_SPAN - 1;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = level * SLOTS + (int) ((deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        int head = slotHeads[slot];
+        next[row] = head;
+        prev[row] = NONE;
+        if (head != NONE) {
+            prev[head] = row;
+        }
+        slotHeads[slot] = row;
+        slotOf[row] = slot;
+    }
+
+    private void unlink(int row) {
+        int before = prev[row];
+        int after = next[row];
+        if (before != NONE) {
+            next[before] = after;
+        } else {
+            slotHeads[slotOf[row]] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+    }
+
+    private int allocateRow() {
+        if (freeHead != NONE) {
+            int row = freeHead;
+            freeHead = next[row];
+            return row;
+        }
+        if (used == deadlines.length) {
+            int capacity = deadlines.length * 2;
+            deadlines = Arrays.copyOf(deadlines, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+            slotOf = Arrays.copyOf(slotOf, capacity);
+            generations = Arrays.copyOf(generations, capacity);
+            tasks = Arrays.copyOf(tasks, capacity);
+        }
+        return used++;
+    }
+
+    // The generation bump makes every old handle for this row stale.
+    private void freeRow(int row) {
+        generations[row] = (generations[row] + 1) & Integer.MAX_VALUE;
+        slotOf[row] = NONE;
+        tasks[row] = null;
+        next[row] = freeHead;
+        freeHead = row;
+    }
+}
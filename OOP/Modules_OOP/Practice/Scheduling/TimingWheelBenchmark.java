@@ -0,0 +1,52 @@
+package Practice.Scheduling;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Schedules millions of cooldown-style timers, cancels some, then runs the wheel until
+// all of them have fired. Prints the cost per operation and the memory used per timer.
+//
+// Usage: TimingWheelBenchmark [timerCount (default 10000000)]
+// 10 million timers need roughly 400 MB of heap, e.g. run with -Xmx1g.
+public class TimingWheelBenchmark {
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        Random random = new Random(42);
+        Runtime runtime = Runtime.getRuntime();
+
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+
+        // Cooldowns between 1 ms and 60 s, on a 1 ms tick
+        TimingWheel wheel = new TimingWheel(1, TimeUnit.MILLISECONDS, 0, count);
+        long[] handles = new long[count];
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            handles[i] = wheel.schedule(1 + random.nextInt(60_000), TimeUnit.MILLISECONDS, null);
+        }
+        long scheduleNanos = System.nanoTime() - start;
+
+        System.gc();
+        long heapAfter = runtime.totalMemory() - runtime.freeMemory();
+        long handleBytes = 8L * count; // The benchmark's own handle array is not part of the wheel
+
+        int cancelled = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < count; i += 10) {
+            if (wheel.cancel(handles[i])) {
+                cancelled++;
+            }
+        }
+        long cancelNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int fired = wheel.advanceTo(TimeUnit.SECONDS.toNanos(61));
+        long expireNanos = System.nanoTime() - start;
+
+        System.out.printf("Scheduled %,d timers: %.1f ns each%n", count, (double) scheduleNanos / count);
+        System.out.printf("Memory per pending timer: %.1f bytes%n", (double) (heapAfter - heapBefore - handleBytes) / count);
+        System.out.printf("Cancelled %,d timers: %.1f ns each%n", cancelled, (double) cancelNanos / cancelled);
+        System.out.printf("Fired %,d timers over 60,000 ticks: %.1f ns each%n", fired, (double) expireNanos / fired);
+        System.out.println("Still pending: " + wheel.pendingCount());
+    }
+}
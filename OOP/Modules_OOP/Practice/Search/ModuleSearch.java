@@ -0,0 +1,72 @@
+package Practice.Search;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// Searches the module documents from the command line.
+//
+// Usage: ModuleSearch <query>
+//   e.g. ModuleSearch "strategy pattern" payment   (an argument with spaces is a phrase)
+//        ModuleSearch 'encapsul*'
+//
+// The documents are read from Modules/, the example code from Practice/ and the index is
+// kept in .search-index/, all found by walking up from the working directory to the
+// folder that contains Modules and Practice. Only changed documents are re-indexed.
+public class ModuleSearch {
+    private static final int MAX_HITS = 10;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.out.println("Usage: ModuleSearch <query>   (words, prefix*, and \"a phrase\" as one argument)");
+            return;
+        }
+        Path root = findCourseRoot();
+        if (root == null) {
+            System.out.println("Could not find a folder containing Modules and Practice above " + Path.of("").toAbsolutePath());
+            return;
+        }
+
+        long start = System.nanoTime();
+        int reindexed = SearchIndex.update(root.resolve("Modules"), root.resolve("Practice"), root.resolve(".search-index"));
+        SearchIndex index = SearchIndex.open(root.resolve(".search-index"));
+        System.out.printf("Index ready in %.1f ms (%d documents re-indexed)%n", (System.nanoTime() - start) / 1e6, reindexed);
+
+        String query = toQuery(args);
+        start = System.nanoTime();
+        List<SearchHit> hits = index.search(query, MAX_HITS);
+        long queryNanos = System.nanoTime() - start;
+
+        System.out.printf("%d hits for %s in %.3f ms%n", hits.size(), query, queryNanos / 1e6);
+        for (SearchHit hit : hits) {
+            System.out.printf("%6.2f  %s:%d  %s%n", hit.getScore(), hit.getDocument(), hit.getLine(), hit.getTitle());
+            if (hit.getPracticePackage() != null) {
+                System.out.println("        example code: " + hit.getPracticePackage());
+            }
+        }
+    }
+
+    // The shell has already removed the quotes around "strategy pattern", but it kept the
+    // words together in one argument, so an argument with spaces is quoted again as a phrase.
+    // An argument that still contains quotes is taken as query syntax and left alone.
+    private static String toQuery(String[] args) {
+        StringBuilder query = new StringBuilder();
+        for (String arg : args) {
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            boolean phrase = arg.indexOf('"') < 0 && arg.strip().chars().anyMatch(Character::isWhitespace);
+            query.append(phrase ? '"' + arg.strip() + '"' : arg);
+        }
+        return query.toString();
+    }
+
+    private static Path findCourseRoot() {
+        for (Path dir = Path.of("").toAbsolutePath(); dir != null; dir = dir.getParent()) {
+            if (Files.isDirectory(dir.resolve("Modules")) && Files.isDirectory(dir.resolve("Practice"))) {
+                return dir;
+            }
+        }
+        return null;
+    }
+}
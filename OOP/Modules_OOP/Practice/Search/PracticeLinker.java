@@ -0,0 +1,111 @@
+package Practice.Search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Works out which Practice package holds the example code a section talks about.
+// It reads the class names declared in every Practice.Module* package, then looks for
+// those names in the section's code. Names like "Main" or "Car" are declared in several
+// packages, so a match counts for less the more packages of the same module share the name.
+final class PracticeLinker {
+    private static final Pattern PACKAGE = Pattern.compile("^package\\s+([\\w.]+)\\s*;", Pattern.MULTILINE);
+    // Only at the start of a line, so "the 'Car' class now ..." in a comment does not count
+    private static final Pattern DECLARATION = Pattern.compile(
+            "^\\s*(?:(?:public|protected|private|abstract|final|static)\\s+)*(?:class|interface|enum)\\s+(\\w+)",
+            Pattern.MULTILINE);
+    private static final Pattern MODULE_NUMBER = Pattern.compile("Module(\\d+)");
+
+    // Lowercase class name -> packages that declare a class with that name
+    private final Map<String, List<String>> packagesByClass = new HashMap<>();
+
+    PracticeLinker(Path practiceDirectory) throws IOException {
+        if (!Files.isDirectory(practiceDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(practiceDirectory)) {
+            files.filter(file -> file.toString().endsWith(".java"))
+                    .filter(file -> !isBuildOutput(practiceDirectory.relativize(file)))
+                    .forEach(this::readClassNames);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static boolean isBuildOutput(Path relative) {
+        for (Path part : relative) {
+            if (part.toString().equals("out")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void readClassNames(Path javaFile) {
+        String source;
+        try {
+            source = new String(Files.readAllBytes(javaFile), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        Matcher packageName = PACKAGE.matcher(source);
+        if (!packageName.find() || !packageName.group(1).startsWith("Practice.Module")) {
+            return;
+        }
+        Matcher declaration = DECLARATION.matcher(source);
+        while (declaration.find()) {
+            List<String> packages = packagesByClass.computeIfAbsent(declaration.group(1).toLowerCase(), k -> new ArrayList<>());
+            if (!packages.contains(packageName.group(1))) {
+                packages.add(packageName.group(1));
+            }
+        }
+    }
+
+    // Returns the best matching package for the words of a section's code, or null if none fits.
+    // When the document is about "Module6", only Practice.Module6.* packages are considered.
+    String link(String documentName, List<String> tokens) {
+        Matcher module = MODULE_NUMBER.matcher(documentName);
+        String requiredPrefix = module.find() ? "Practice.Module" + module.group(1) + "." : "Practice.Module";
+
+        Map<String, Double> scores = new HashMap<>();
+        Set<String> seen = new HashSet<>();
+        for (String token : tokens) {
+            List<String> packages = packagesByClass.get(token);
+            if (packages == null || !seen.add(token)) {
+                continue;
+            }
+            List<String> candidates = new ArrayList<>();
+            for (String packageName : packages) {
+                if (packageName.startsWith(requiredPrefix)) {
+                    candidates.add(packageName);
+                }
+            }
+            for (String packageName : candidates) {
+                scores.merge(packageName, 1.0 / candidates.size(), Double::sum);
+            }
+        }
+
+        // Needs at least the weight of one class name that only one package declares
+        String best = null;
+        double bestScore = 0;
+        for (Map.Entry<String, Double> score : new TreeMap<>(scores).entrySet()) {
+            if (score.getValue() >= 1.0 && score.getValue() > bestScore) {
+                best = score.getKey();
+                bestScore = score.getValue();
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,39 @@
+package Practice.Search;
+
+// One ranked result: a section of a module document.
+public class SearchHit {
+    private final String document;
+    private final String title;
+    private final int line;
+    private final String practicePackage;
+    private final double score;
+
+    SearchHit(String document, String title, int line, String practicePackage, double score) {
+        this.document = document;
+        this.title = title;
+        this.line = line;
+        this.practicePackage = practicePackage;
+        this.score = score;
+    }
+
+    public String getDocument() {
+        return document;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    // The Practice package with this section's example code, or null if there is none.
+    public String getPracticePackage() {
+        return practicePackage;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,319 @@
+package Practice.Search;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// A search index over the module documents (Modules/*.md).
+//
+// Each document is split into sections, and each section is indexed by word. The index
+// for each document lives in its own segment file, and manifest.tsv remembers the size
+// and modification time each segment was built from, so update() only rebuilds the
+// segments of documents that changed.
+//
+// Queries rank sections with BM25. Supported syntax, with every part required to match:
+//   word        the word anywhere in the section
+//   prefix*     any word starting with "prefix"
+//   "a phrase"  the words next to each other, in this order
+public class SearchIndex {
+    private static final String MANIFEST = "manifest.tsv";
+    private static final Pattern QUERY_PART = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+
+    // BM25 tuning: K1 limits how much repeating a word helps, B how much long sections are penalized
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final List<Segment> segments = new ArrayList<>();
+    private final int totalDocs;
+    private final double averageLength;
+
+    private SearchIndex(List<Segment> segments) {
+        this.segments.addAll(segments);
+        int docs = 0;
+        long tokens = 0;
+        for (Segment segment : segments) {
+            docs += segment.docCount;
+            tokens += segment.totalTokens;
+        }
+        this.totalDocs = docs;
+        this.averageLength = docs == 0 ? 0 : (double) tokens / docs;
+    }
+
+    // Brings the index in indexDirectory up to date with the documents and returns how
+    // many documents had to be (re)indexed. Segments of deleted documents are removed.
+    // Links to Practice packages are worked out when a document is indexed, so a document
+    // has to change (or .search-index be deleted) for new Practice code to be linked.
+    public static int update(Path documentsDirectory, Path practiceDirectory, Path indexDirectory) throws IOException {
+        Files.createDirectories(indexDirectory);
+        Map<String, String[]> manifest = readManifest(indexDirectory);
+        Map<String, String[]> updated = new TreeMap<>();
+        PracticeLinker linker = null;
+        int reindexed = 0;
+
+        List<Path> documents;
+        try (Stream<Path> files = Files.list(documentsDirectory)) {
+            documents = files.filter(file -> file.toString().endsWith(".md")).sorted().collect(Collectors.toList());
+        }
+        for (Path document : documents) {
+            String name = document.getFileName().toString();
+            String size = String.valueOf(Files.size(document));
+            String modified = String.valueOf(Files.getLastModifiedTime(document).toMillis());
+            String segmentFile = segmentFileName(name);
+            String[] previous = manifest.get(name);
+            boolean unchanged = previous != null && previous[1].equals(size) && previous[2].equals(modified)
+                    && Files.exists(indexDirectory.resolve(segmentFile));
+            if (!unchanged) {
+                if (linker == null) {
+                    linker = new PracticeLinker(practiceDirectory);
+                }
+                indexDocument(document, name, linker, indexDirectory.resolve(segmentFile));
+                reindexed++;
+            }
+            updated.put(name, new String[] { segmentFile, size, modified });
+        }
+
+        for (Map.Entry<String, String[]> entry : manifest.entrySet()) {
+            if (!updated.containsKey(entry.getKey())) {
+                Files.deleteIfExists(indexDirectory.resolve(entry.getValue()[0]));
+            }
+        }
+        writeManifest(indexDirectory, updated);
+        return reindexed;
+    }
+
+    // Opens the segments listed in the manifest.
+    public static SearchIndex open(Path indexDirectory) throws IOException {
+        List<Segment> segments = new ArrayList<>();
+        for (Map.Entry<String, String[]> entry : readManifest(indexDirectory).entrySet()) {
+            segments.add(new Segment(entry.getKey(), indexDirectory.resolve(entry.getValue()[0])));
+        }
+        return new SearchIndex(segments);
+    }
+
+    // Returns the best sections for the query, highest score first.
+    public List<SearchHit> search(String query, int limit) {
+        List<Clause> clauses = parse(query);
+        List<SearchHit> hits = new ArrayList<>();
+        if (clauses.isEmpty()) {
+            return hits;
+        }
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        for (Segment segment : segments) {
+            Map<Integer, Double> scores = null;
+            for (Clause clause : clauses) {
+                Map<Integer, Double> clauseScores = clause.score(this, segment, documentFrequencies);
+                if (scores == null) {
+                    scores = clauseScores;
+                } else {
+                    scores.keySet().retainAll(clauseScores.keySet());
+                    for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                        entry.setValue(entry.getValue() + clauseScores.get(entry.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    break; // Every clause must match, so this segment has no hits
+                }
+            }
+            for (Map.Entry<Integer, Double> entry : scores.entrySet()) {
+                int doc = entry.getKey();
+                hits.add(new SearchHit(segment.documentName, segment.titles[doc], segment.lines[doc],
+                        segment.packages[doc], entry.getValue()));
+            }
+        }
+        hits.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+    }
+
+    private static void indexDocument(Path document, String name, PracticeLinker linker, Path segmentFile) throws IOException {
+        String markdown = new String(Files.readAllBytes(document), StandardCharsets.UTF_8);
+        List<Section> sections = Section.split(markdown);
+        List<List<String>> tokens = new ArrayList<>();
+        for (Section section : sections) {
+            section.practicePackage = linker.link(name, Tokenizer.tokenize(section.code));
+            tokens.add(Tokenizer.tokenize(section.text));
+        }
+        SegmentWriter.write(segmentFile, sections, tokens);
+    }
+
+    // ---- Scoring ----
+
+    private double idf(int documentFrequency) {
+        return Math.log(1 + (totalDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private double bm25(double idf, int termFrequency, int docLength) {
+        double norm = K1 * (1 - B + B * docLength / averageLength);
+        return idf * termFrequency * (K1 + 1) / (termFrequency + norm);
+    }
+
+    // A term's document frequency across all segments, cached for the current query.
+    private int documentFrequency(String term, Map<String, Integer> cache) {
+        return cache.computeIfAbsent(term, t -> {
+            int df = 0;
+            for (Segment segment : segments) {
+                int index = segment.find(t);
+                if (index >= 0) {
+                    df += segment.documentFrequency(index);
+                }
+            }
+            return df;
+        });
+    }
+
+    // ---- Queries ----
+
+    private interface Clause {
+        // Section id -> score, for the sections of one segment that match this clause
+        Map<Integer, Double> score(SearchIndex index, Segment segment, Map<String, Integer> documentFrequencies);
+    }
+
+    private static List<Clause> parse(String query) {
+        List<Clause> clauses = new ArrayList<>();
+        Matcher part = QUERY_PART.matcher(query);
+        while (part.find()) {
+            if (part.group(1) != null) {
+                List<String> words = Tokenizer.tokenize(part.group(1));
+                if (!words.isEmpty()) {
+                    clauses.add(words.size() == 1 ? termClause(words.get(0)) : phraseClause(words));
+                }
+                continue;
+            }
+            String word = part.group(2);
+            List<String> words = Tokenizer.tokenize(word);
+            if (word.endsWith("*") && words.size() == 1) {
+                clauses.add(prefixClause(words.get(0)));
+            } else if (words.size() == 1) {
+                clauses.add(termClause(words.get(0)));
+            } else if (words.size() > 1) {
+                clauses.add(phraseClause(words)); // e.g. "Credit-Card" means the two words together
+            }
+        }
+        return clauses;
+    }
+
+    private static Clause termClause(String term) {
+        return (index, segment, documentFrequencies) -> {
+            Map<Integer, Double> scores = new HashMap<>();
+            int termIndex = segment.find(term);
+            if (termIndex >= 0) {
+                double idf = index.idf(index.documentFrequency(term, documentFrequencies));
+                Segment.Postings postings = segment.postings(termIndex);
+                for (int i = 0; i < postings.docs.length; i++) {
+                    int doc = postings.docs[i];
+                    scores.put(doc, index.bm25(idf, postings.positions[i].length, segment.docLengths[doc]));
+                }
+            }
+            return scores;
+        };
+    }
+
+    // Scores every word that starts with the prefix, like one OR query over all of them.
+    // The dictionary is sorted, so those words are one range of it and all of them are used;
+    // skipping some would silently drop sections from the result.
+    private static Clause prefixClause(String prefix) {
+        return (index, segment, documentFrequencies) -> {
+            Map<Integer, Double> scores = new HashMap<>();
+            int end = segment.termCount();
+            for (int t = segment.firstAtOrAfter(prefix); t < end && segment.termAt(t).startsWith(prefix); t++) {
+                double idf = index.idf(index.documentFrequency(segment.termAt(t), documentFrequencies));
+                Segment.Postings postings = segment.postings(t);
+                for (int i = 0; i < postings.docs.length; i++) {
+                    int doc = postings.docs[i];
+                    scores.merge(doc, index.bm25(idf, postings.positions[i].length, segment.docLengths[doc]), Double::sum);
+                }
+            }
+            return scores;
+        };
+    }
+
+    // The phrase is scored like a single word: how often the whole phrase occurs, with
+    // the idf of its words added up (rare words make a phrase more telling).
+    private static Clause phraseClause(List<String> words) {
+        return (index, segment, documentFrequencies) -> {
+            Map<Integer, Double> scores = new HashMap<>();
+            Segment.Postings[] postings = new Segment.Postings[words.size()];
+            double idf = 0;
+            for (int w = 0; w < words.size(); w++) {
+                int termIndex = segment.find(words.get(w));
+                if (termIndex < 0) {
+                    return scores;
+                }
+                postings[w] = segment.postings(termIndex);
+                idf += index.idf(index.documentFrequency(words.get(w), documentFrequencies));
+            }
+            for (int i = 0; i < postings[0].docs.length; i++) {
+                int doc = postings[0].docs[i];
+                int[][] positions = new int[words.size()][];
+                positions[0] = postings[0].positions[i];
+                boolean inAll = true;
+                for (int w = 1; w < words.size() && inAll; w++) {
+                    int at = Arrays.binarySearch(postings[w].docs, doc);
+                    inAll = at >= 0;
+                    positions[w] = inAll ? postings[w].positions[at] : null;
+                }
+                if (!inAll) {
+                    continue;
+                }
+                int occurrences = 0;
+                for (int start : positions[0]) {
+                    boolean match = true;
+                    for (int w = 1; w < words.size() && match; w++) {
+                        match = Arrays.binarySearch(positions[w], start + w) >= 0;
+                    }
+                    if (match) {
+                        occurrences++;
+                    }
+                }
+                if (occurrences > 0) {
+                    scores.put(doc, index.bm25(idf, occurrences, segment.docLengths[doc]));
+                }
+            }
+            return scores;
+        };
+    }
+
+    // ---- Manifest ----
+
+    // Document name -> { segment file, size, last modified }
+    private static Map<String, String[]> readManifest(Path indexDirectory) throws IOException {
+        Map<String, String[]> manifest = new TreeMap<>();
+        Path file = indexDirectory.resolve(MANIFEST);
+        if (!Files.exists(file)) {
+            return manifest;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t");
+            if (fields.length == 4) {
+                manifest.put(fields[3], new String[] { fields[0], fields[1], fields[2] });
+            }
+        }
+        return manifest;
+    }
+
+    private static void writeManifest(Path indexDirectory, Map<String, String[]> manifest) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, String[]> entry : manifest.entrySet()) {
+            String[] fields = entry.getValue();
+            lines.add(fields[0] + "\t" + fields[1] + "\t" + fields[2] + "\t" + entry.getKey());
+        }
+        Files.write(indexDirectory.resolve(MANIFEST), lines, StandardCharsets.UTF_8);
+    }
+
+    // A file-system-safe name for a document's segment, e.g. "Module5_Abstraction-1a2b3c4d.seg".
+    // The hash keeps names apart that only differ in the characters that get replaced.
+    private static String segmentFileName(String documentName) {
+        String base = documentName.endsWith(".md") ? documentName.substring(0, documentName.length() - 3) : documentName;
+        return base.replaceAll("[^A-Za-z0-9_-]+", "_") + "-" + Integer.toHexString(documentName.hashCode()) + ".seg";
+    }
+}
@@ -0,0 +1,91 @@
+package Practice.Search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// One heading of a module document together with the text under it. Sections, not
+// whole files, are what the index returns, so a hit points at the right paragraph.
+final class Section {
+    private static final Pattern HEADING = Pattern.compile("^(#{1,6})\\s+(.*)$");
+    private static final Pattern EMBED = Pattern.compile("!\\[\\[[^\\]]*\\]\\]"); // Obsidian image embeds
+    private static final Pattern INLINE_CODE = Pattern.compile("`([^`]+)`");
+
+    final String title;      // e.g. "Encapsulation > Example"
+    final int line;          // Line of the heading, starting at 1
+    final String text;
+    final String code;       // Code blocks and `inline code` only, used to find the Practice package
+    String practicePackage;  // Filled in by PracticeLinker, may stay null
+
+    Section(String title, int line, String text, String code) {
+        this.title = title;
+        this.line = line;
+        this.text = text;
+        this.code = code;
+    }
+
+    // Splits a markdown document at its headings. Lines starting with '#' inside code
+    // blocks are not headings. The title includes the parent headings.
+    static List<Section> split(String markdown) {
+        List<Section> sections = new ArrayList<>();
+        String[] headings = new String[7];
+        String title = "(top)";
+        int line = 1;
+        StringBuilder text = new StringBuilder();
+        StringBuilder code = new StringBuilder();
+        boolean inCode = false;
+
+        String[] lines = markdown.split("\r?\n", -1);
+        for (int i = 0; i < lines.length; i++) {
+            String current = lines[i];
+            boolean fence = current.trim().startsWith("```");
+            if (fence) {
+                inCode = !inCode;
+            }
+            Matcher heading = inCode ? null : HEADING.matcher(current);
+            if (heading != null && heading.matches()) {
+                addIfNotEmpty(sections, title, line, text, code);
+                int level = heading.group(1).length();
+                headings[level] = heading.group(2).replace("*", "").trim();
+                for (int deeper = level + 1; deeper < headings.length; deeper++) {
+                    headings[deeper] = null;
+                }
+                title = joinHeadings(headings);
+                line = i + 1;
+                text.setLength(0);
+                code.setLength(0);
+            }
+            text.append(EMBED.matcher(current).replaceAll(" ")).append('\n');
+            if (inCode && !fence) {
+                code.append(current).append('\n');
+            } else {
+                Matcher inline = INLINE_CODE.matcher(current);
+                while (inline.find()) {
+                    code.append(inline.group(1)).append('\n');
+                }
+            }
+        }
+        addIfNotEmpty(sections, title, line, text, code);
+        return sections;
+    }
+
+    private static void addIfNotEmpty(List<Section> sections, String title, int line, StringBuilder text, StringBuilder code) {
+        if (text.toString().trim().length() > 0) {
+            sections.add(new Section(title, line, text.toString(), code.toString()));
+        }
+    }
+
+    private static String joinHeadings(String[] headings) {
+        StringBuilder title = new StringBuilder();
+        for (String heading : headings) {
+            if (heading != null && !heading.isEmpty()) {
+                if (title.length() > 0) {
+                    title.append(" > ");
+                }
+                title.append(heading);
+            }
+        }
+        return title.toString();
+    }
+}
@@ -0,0 +1,129 @@
+package Practice.Search;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+// A segment file opened for searching. The section list and the sorted term dictionary
+// are small and are read into arrays; the postings stay in the memory-mapped file and
+// are only decoded for the terms a query asks about.
+final class Segment {
+    // The decoded postings of one term in this segment
+    static final class Postings {
+        final int[] docs;
+        final int[][] positions;
+
+        Postings(int[] docs, int[][] positions) {
+            this.docs = docs;
+            this.positions = positions;
+        }
+    }
+
+    final String documentName;
+    final int docCount;
+    final long totalTokens;
+    final int[] docLengths;
+    final int[] lines;
+    final String[] titles;
+    final String[] packages;
+
+    private final String[] terms;
+    private final int[] documentFrequencies;
+    private final int[] postingsStarts;
+    private final MappedByteBuffer buffer;
+    private final int postingsOffset;
+
+    Segment(String documentName, Path file) throws IOException {
+        this.documentName = documentName;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.getInt(0) != SegmentWriter.MAGIC || buffer.getInt(4) != SegmentWriter.VERSION) {
+            throw new IOException(file + " is not a search index segment.");
+        }
+        docCount = buffer.getInt(8);
+        int termCount = buffer.getInt(12);
+        totalTokens = buffer.getLong(16);
+        int[] position = { buffer.getInt(24) };
+        postingsOffset = buffer.getInt(32);
+
+        docLengths = new int[docCount];
+        lines = new int[docCount];
+        titles = new String[docCount];
+        packages = new String[docCount];
+        for (int doc = 0; doc < docCount; doc++) {
+            docLengths[doc] = VarInt.readInt(buffer, position);
+            lines[doc] = VarInt.readInt(buffer, position);
+            titles[doc] = readString(position);
+            String linked = readString(position);
+            packages[doc] = linked.isEmpty() ? null : linked;
+        }
+
+        position[0] = buffer.getInt(28);
+        terms = new String[termCount];
+        documentFrequencies = new int[termCount];
+        postingsStarts = new int[termCount];
+        for (int term = 0; term < termCount; term++) {
+            terms[term] = readString(position);
+            documentFrequencies[term] = VarInt.readInt(buffer, position);
+            postingsStarts[term] = VarInt.readInt(buffer, position);
+        }
+    }
+
+    // Index of the term in the dictionary, or -1.
+    int find(String term) {
+        int index = Arrays.binarySearch(terms, term);
+        return index >= 0 ? index : -1;
+    }
+
+    // Index of the first term that is >= prefix; use with termAt() to walk a prefix range.
+    int firstAtOrAfter(String prefix) {
+        int index = Arrays.binarySearch(terms, prefix);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    int termCount() {
+        return terms.length;
+    }
+
+    String termAt(int index) {
+        return terms[index];
+    }
+
+    int documentFrequency(int term) {
+        return documentFrequencies[term];
+    }
+
+    Postings postings(int term) {
+        int df = documentFrequencies[term];
+        int[] docs = new int[df];
+        int[][] positions = new int[df][];
+        int[] position = { postingsOffset + postingsStarts[term] };
+        int doc = 0;
+        for (int i = 0; i < df; i++) {
+            doc += VarInt.readInt(buffer, position);
+            docs[i] = doc;
+            int[] termPositions = new int[VarInt.readInt(buffer, position)];
+            int last = 0;
+            for (int p = 0; p < termPositions.length; p++) {
+                last += VarInt.readInt(buffer, position);
+                termPositions[p] = last;
+            }
+            positions[i] = termPositions;
+        }
+        return new Postings(docs, positions);
+    }
+
+    private String readString(int[] position) {
+        int length = VarInt.readInt(buffer, position);
+        byte[] bytes = new byte[length];
+        buffer.get(position[0], bytes);
+        position[0] += length;
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
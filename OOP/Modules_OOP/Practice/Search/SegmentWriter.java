@@ -0,0 +1,104 @@
+package Practice.Search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Writes the index for one markdown file as a segment file. Every file gets its own
+// segment, so when one file changes only its segment has to be rebuilt.
+//
+// Layout (all numbers after the header are VarInts):
+//   header    MAGIC, VERSION, docCount, termCount, totalTokens, docsOffset, dictOffset, postingsOffset
+//   docs      per section: token count, heading line, title, linked package ("" for none)
+//   dict      per term, sorted: term, document frequency, postings start
+//   postings  per term, per section: section id gap, term count, then each position gap
+final class SegmentWriter {
+    static final int MAGIC = 0x4D4F4458; // "MODX"
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 + 4 + 4 + 4 + 8 + 4 + 4 + 4;
+
+    private SegmentWriter() {
+    }
+
+    private static final class TermPostings {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int documentFrequency;
+        int lastDoc;
+    }
+
+    static void write(Path target, List<Section> sections, List<List<String>> sectionTokens) throws IOException {
+        ByteArrayOutputStream docs = new ByteArrayOutputStream();
+        TreeMap<String, TermPostings> terms = new TreeMap<>();
+        long totalTokens = 0;
+
+        for (int doc = 0; doc < sections.size(); doc++) {
+            Section section = sections.get(doc);
+            List<String> tokens = sectionTokens.get(doc);
+            totalTokens += tokens.size();
+            VarInt.write(docs, tokens.size());
+            VarInt.write(docs, section.line);
+            writeString(docs, section.title);
+            writeString(docs, section.practicePackage == null ? "" : section.practicePackage);
+
+            // Group the positions of each word in this section
+            Map<String, List<Integer>> positions = new LinkedHashMap<>();
+            for (int position = 0; position < tokens.size(); position++) {
+                positions.computeIfAbsent(tokens.get(position), k -> new ArrayList<>()).add(position);
+            }
+            for (Map.Entry<String, List<Integer>> entry : positions.entrySet()) {
+                TermPostings postings = terms.computeIfAbsent(entry.getKey(), k -> new TermPostings());
+                VarInt.write(postings.bytes, doc - postings.lastDoc);
+                VarInt.write(postings.bytes, entry.getValue().size());
+                int lastPosition = 0;
+                for (int position : entry.getValue()) {
+                    VarInt.write(postings.bytes, position - lastPosition);
+                    lastPosition = position;
+                }
+                postings.lastDoc = doc;
+                postings.documentFrequency++;
+            }
+        }
+
+        ByteArrayOutputStream dict = new ByteArrayOutputStream();
+        ByteArrayOutputStream allPostings = new ByteArrayOutputStream();
+        for (Map.Entry<String, TermPostings> entry : terms.entrySet()) {
+            TermPostings postings = entry.getValue();
+            writeString(dict, entry.getKey());
+            VarInt.write(dict, postings.documentFrequency);
+            VarInt.write(dict, allPostings.size());
+            postings.bytes.writeTo(allPostings);
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(sections.size()).putInt(terms.size()).putLong(totalTokens);
+        header.putInt(HEADER_SIZE);
+        header.putInt(HEADER_SIZE + docs.size());
+        header.putInt(HEADER_SIZE + docs.size() + dict.size());
+
+        // Write to a temporary file first so a crash never leaves half a segment behind
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temporary)) {
+            out.write(header.array());
+            docs.writeTo(out);
+            dict.writeTo(out);
+            allPostings.writeTo(out);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        VarInt.write(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+}
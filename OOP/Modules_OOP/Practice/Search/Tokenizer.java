@@ -0,0 +1,30 @@
+package Practice.Search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Splits text into lowercase words made of letters and digits. Everything else
+// (markdown symbols, punctuation, code braces) only separates words.
+// "CreditCardPayment" stays one word, so searching for a class name finds it.
+final class Tokenizer {
+    private Tokenizer() {
+    }
+
+    static List<String> tokenize(CharSequence text) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                tokens.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (word.length() > 0) {
+            tokens.add(word.toString());
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,41 @@
+package Practice.Search;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+// Variable-length integers: 7 bits per byte, high bit set when more bytes follow.
+// Postings store gaps between sorted numbers (doc ids, positions), and gaps are small,
+// so most of them fit in a single byte.
+final class VarInt {
+    private VarInt() {
+    }
+
+    static void write(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    // Reads a value starting at position[0] and moves position[0] past it.
+    static long read(ByteBuffer buffer, int[] position) {
+        long value = 0;
+        int shift = 0;
+        int i = position[0];
+        while (true) {
+            byte b = buffer.get(i++);
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                break;
+            }
+            shift += 7;
+        }
+        position[0] = i;
+        return value;
+    }
+
+    static int readInt(ByteBuffer buffer, int[] position) {
+        return (int) read(buffer, position);
+    }
+}